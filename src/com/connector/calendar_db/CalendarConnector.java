@@ -1,11 +1,17 @@
 package com.connector.calendar_db;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.GregorianCalendar;
+import java.util.HashMap;
 import java.util.Iterator;
 
 /**
@@ -24,6 +30,15 @@ import java.util.Iterator;
  * creates the <code>'Calendar'</code> database, and the <code>'Calendar_Records'</code> table, if they don't already exist.
  * <p>
  * Until the database is initiated through either means, the methods that communicate with the database will not work and will exit early. 
+ * <p>
+ * <br>
+ * <b> java.time methods</b>
+ * <p>
+ * The methods that take <code>LocalDate</code>, <code>LocalTime</code> and <code>LocalDateTime</code> arguments use prepared statements,
+ * which are kept for as long as the <code>Connection</code> is set. 
+ * MySQL Connector/J only sends the values in binary form if <code>useServerPrepStmts=true</code> is added to the JDBC URL; 
+ * otherwise it still writes them into the SQL text for the server to parse. 
+ * A <code>CalendarConnector</code>, like the <code>Connection</code> it holds, should only be used by one thread at a time.
  * @author Mingrui Ma
  *
  */
@@ -33,6 +48,10 @@ public class CalendarConnector {
 	 * Ready is only true if the <code>CalendarConnector</code> instance has a valid <code>Connection</code>. 
 	 */
 	private boolean ready;
+	/*
+	 * Prepared statements of the java.time methods, by SQL text. They belong to <code>con</code>.
+	 */
+	private final HashMap<String, PreparedStatement> statements = new HashMap<>();
 	
 	/**
 	 * The default constructor leaves the <code>Connection</code> Object uninitiated.
@@ -110,6 +129,7 @@ public class CalendarConnector {
 	 * @param connection The <code>Connection</code> object to use for the calling <code>CalendarConnector</code>.
 	 */
 	public void setConnection(Connection connection)	{
+		closeStatements();
 		this.con = connection;
 		try	{			
 			Statement stmt = con.createStatement(ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
@@ -140,13 +160,48 @@ public class CalendarConnector {
 	 * @return the date of the given <code>GregorianCalendar</code> as a string, in the format "YYYY-MM-DD".
 	 */
 	static String getDate(GregorianCalendar cal)	{
-		Integer day = cal.get(Calendar.DAY_OF_MONTH), 
-				month = cal.get(Calendar.MONTH) + 1,  
-				yr = cal.get(Calendar.YEAR);
-		String date = yr + "-"
-					+ month + "-"
-					+ day;	
-		return date;
+		return toLocalDate(cal).toString();
+	}
+	
+	/**
+	 * @param cal The <code>GregorianCalendar</code> object to convert.
+	 * @return the date of the given <code>GregorianCalendar</code> as a <code>LocalDate</code>.
+	 */
+	static LocalDate toLocalDate(GregorianCalendar cal)	{
+		return LocalDate.of(cal.get(Calendar.YEAR), cal.get(Calendar.MONTH) + 1, cal.get(Calendar.DAY_OF_MONTH));
+	}
+	
+	/*
+	 * True if the string argument asks for the column's default/current value.
+	 */
+	private static boolean isDefault(String value)	{
+		return value == null || value.toLowerCase().equals("default");
+	}
+	
+	/*
+	 * Returns the prepared statement for the given SQL, preparing it on first use.
+	 */
+	private PreparedStatement prepare(String sql) throws SQLException	{
+		PreparedStatement stmt = statements.get(sql);
+		if(stmt == null)	{
+			stmt = con.prepareStatement(sql);
+			statements.put(sql, stmt);
+		}
+		return stmt;
+	}
+	
+	/*
+	 * Closes the prepared statements of the current <code>Connection</code>.
+	 */
+	private void closeStatements()	{
+		for(PreparedStatement stmt : statements.values())	{
+			try	{
+				stmt.close();
+			}	catch(Exception e)	{ 
+				e.printStackTrace();
+			}
+		}
+		statements.clear();
 	}
 	
 	/**
@@ -181,6 +236,24 @@ public class CalendarConnector {
 	 * @param note The note string to add.
 	 */
 	public int addRecord(GregorianCalendar cal, String time, String event, String note)	{
+		return addRecord(getDate(cal), time, event, note);
+	}
+	
+	/**
+	 * Adds a record to the <code>Calendar_Records</code> table, using the given information.
+	 * <p>
+	 * Returns 1 if the operation is successful, and 0 if it is not.
+	 * <p>
+	 * Passing the string "default" to any of the string arguments (except <code>date</code>) 
+	 * will cause the default value of the respective column to be used.
+	 * <p>
+	 * @param date The date to add the record on.
+	 * @param Time Time of day to create the record for. Examples of accepted formats: 
+	 * "12:00", "12:00:00", "120000" (all meaning noon), "12" (meaning 12 seconds past midnight).
+	 * @param event The event string to add.
+	 * @param note The note string to add.
+	 */
+	public int addRecord(String date, String time, String event, String note)	{
 		if(!ready)	{
 			System.out.println("Error: uninitiated connection.");
 			return 0;
@@ -190,8 +263,7 @@ public class CalendarConnector {
 			
 			stmt.addBatch("USE calendar");
 			
-			String date = getDate(cal),
-					sql = "INSERT INTO calendar_records (date, ";
+			String sql = "INSERT INTO calendar_records (date, ";
 			if(!time.toLowerCase().equals("default"))	{
 				sql += "time, ";
 			}
@@ -231,52 +303,50 @@ public class CalendarConnector {
 	 * <p>
 	 * Returns 1 if the operation is successful, and 0 if it is not.
 	 * <p>
-	 * Passing the string "default" to any of the string arguments (except <code>date</code>) 
+	 * The date and time are bound as typed values, so they are not formatted or parsed as strings.
+	 * Passing <code>null</code> as the time, or <code>null</code> or "default" as the event or note, 
 	 * will cause the default value of the respective column to be used.
+	 * Quotes in the event and note do not need to be escaped.
 	 * <p>
 	 * @param date The date to add the record on.
-	 * @param Time Time of day to create the record for. Examples of accepted formats: 
-	 * "12:00", "12:00:00", "120000" (all meaning noon), "12" (meaning 12 seconds past midnight).
+	 * @param time Time of day to create the record for.
 	 * @param event The event string to add.
 	 * @param note The note string to add.
 	 */
-	public int addRecord(String date, String time, String event, String note)	{
+	public int addRecord(LocalDate date, LocalTime time, String event, String note)	{
 		if(!ready)	{
 			System.out.println("Error: uninitiated connection.");
 			return 0;
 		}
+		String columns = "date",
+				values = "?";
+		if(time != null)	{
+			columns += ", time";
+			values += ", ?";
+		}
+		if(!isDefault(event))	{
+			columns += ", event";
+			values += ", ?";
+		}
+		if(!isDefault(note))	{
+			columns += ", note";
+			values += ", ?";
+		}
+		String sql = "INSERT INTO Calendar.Calendar_Records (" + columns + ") VALUES (" + values + ");";
 		try	{
-			Statement stmt = con.createStatement(ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
-			
-			stmt.addBatch("USE calendar");
-			
-			String sql = "INSERT INTO calendar_records (date, ";
-			if(!time.toLowerCase().equals("default"))	{
-				sql += "time, ";
-			}
-			if(!event.toLowerCase().equals("default"))	{
-				sql += "event, ";
-			}
-			if(!note.toLowerCase().equals("default"))	{
-				sql += "note, ";
-			}
-			sql = sql.substring(0, sql.length()-2);		//remove trailing comma
-			sql += ") VALUES ('" + date + "', ";
-			if(!time.toLowerCase().equals("default"))	{
-				sql += "'" + time + "', ";
+			PreparedStatement stmt = prepare(sql);
+			int index = 1;
+			stmt.setObject(index++, date);
+			if(time != null)	{
+				stmt.setObject(index++, time);
 			}
-			if(!event.toLowerCase().equals("default"))	{
-				sql += "'" + event + "', ";
+			if(!isDefault(event))	{
+				stmt.setString(index++, event);
 			}
-			if(!note.toLowerCase().equals("default"))	{
-				sql += "'" + note + "', ";
+			if(!isDefault(note))	{
+				stmt.setString(index++, note);
 			}
-			sql = sql.substring(0, sql.length()-2);		//remove trailing comma
-			sql += ");";
-			//System.out.println(sql);
-			
-			stmt.addBatch(sql);
-			stmt.executeBatch();
+			stmt.executeUpdate();
 			con.commit();
 			return 1;
 		}	catch(Exception e)	{ 
@@ -285,10 +355,30 @@ public class CalendarConnector {
 		return 0;
 	}
 	
+	/**
+	 * Adds a record to the <code>Calendar_Records</code> table, using the given information.
+	 * <p>
+	 * Returns 1 if the operation is successful, and 0 if it is not.
+	 * <p>
+	 * Passing <code>null</code> or "default" as the event or note will cause the default value of the respective column to be used.
+	 * <p>
+	 * @param dateTime The date and time of day to create the record for.
+	 * @param event The event string to add.
+	 * @param note The note string to add.
+	 */
+	public int addRecord(LocalDateTime dateTime, String event, String note)	{
+		if(dateTime == null)	{
+			System.out.println("Error: date and time must not be null.");
+			return 0;
+		}
+		return addRecord(dateTime.toLocalDate(), dateTime.toLocalTime(), event, note);
+	}
+	
 	/**
 	 * Read all records in the table. The records are sorted by ID.
 	 * @param cal
 	 * @return An ArrayList of arrays of strings. Each String[] represents a record in the table.
+	 * The ArrayList is empty if the query fails.
 	 */
 	public ArrayList<String[]> readAllRecords()	{
 		if(!ready)	{
@@ -309,8 +399,8 @@ public class CalendarConnector {
 			while(rs.next())	{
 				record = new String[5];
 				record[0] = Integer.toString(rs.getInt(1));
-				record[1] = rs.getDate(2).toString();
-				record[2] = rs.getTime(3).toString();
+				record[1] = rs.getString(2);
+				record[2] = rs.getString(3);
 				record[3] = rs.getString(4);
 				record[4] = rs.getString(5);
 				recordList.add(record);
@@ -318,6 +408,7 @@ public class CalendarConnector {
 			}
 		}	catch(Exception e)	{ 
 			e.printStackTrace();
+			return new ArrayList<String[]>();
 		}
 		if(recordList.size()==0)	{		//query got no record
 			record = new String[5];
@@ -335,6 +426,7 @@ public class CalendarConnector {
 	 * Read all records for the given date. The records are sorted by ID.
 	 * @param date A string of the date to search for. Must in in format "YYYY-MM-DD".
 	 * @return An ArrayList of arrays of strings. Each String[] represents a record in the table.
+	 * The ArrayList is empty if the query fails.
 	 */
 	public ArrayList<String[]> readRecordByDate(String date)	{
 		if(!ready)	{
@@ -358,14 +450,15 @@ public class CalendarConnector {
 			while(rs.next())	{	
 				record = new String[5];
 				record[0] = Integer.toString(rs.getInt(1));
-				record[1] = rs.getDate(2).toString();
-				record[2] = rs.getTime(3).toString();
+				record[1] = rs.getString(2);
+				record[2] = rs.getString(3);
 				record[3] = rs.getString(4);
 				record[4] = rs.getString(5);
 				recordList.add(record);
 			}
 		}	catch(Exception e)	{ 
 			e.printStackTrace();
+			return new ArrayList<String[]>();
 		}
 		if(recordList.size()==0)	{		//query got no record
 			record = new String[5];
@@ -383,38 +476,48 @@ public class CalendarConnector {
 	 * Read all records for the given date. The records are sorted by ID.
 	 * @param cal The <code>GregorianCalendar</code> for the date to search for.
 	 * @return An ArrayList of arrays of strings. Each String[] represents a record in the table.
+	 * The ArrayList is empty if the query fails.
 	 */
 	public ArrayList<String[]> readRecordByDate(GregorianCalendar cal)	{
+		return readRecordByDate(toLocalDate(cal));
+	}
+	
+	/**
+	 * Read all records for the given date. The records are sorted by ID.
+	 * <p>
+	 * The date is bound as a typed value. Use <code>readCalendarRecordsByDate()</code> to read the date and time back 
+	 * as <code>LocalDate</code> and <code>LocalTime</code> instead of strings.
+	 * @param date The date to search for.
+	 * @return An ArrayList of arrays of strings. Each String[] represents a record in the table.
+	 * The ArrayList is empty if the query fails.
+	 */
+	public ArrayList<String[]> readRecordByDate(LocalDate date)	{
 		if(!ready)	{
 			System.out.println("Error: uninitiated connection.");
 			return new ArrayList<String[]>();
 		}
-		/*
-		 * Bug: ID = 8 returns twice for some reason?
-		 */
 		ArrayList<String[]> recordList = new ArrayList<>();
 		String[] record;
+		String sql = "SELECT * "
+				+ "FROM Calendar.Calendar_Records "
+				+ "WHERE date = ?;";
 		try	{
-			Statement stmt = con.createStatement(ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
-			
-			stmt.execute("USE Calendar");
-			
-			String date = getDate(cal);
-			String sql = "SELECT * "
-					+ "FROM Calendar_Records "
-					+ "WHERE date = '" + date + "';";
-			ResultSet rs = stmt.executeQuery(sql);
-			while(rs.next())	{	
-				record = new String[5];
-				record[0] = Integer.toString(rs.getInt(1));
-				record[1] = rs.getDate(2).toString();
-				record[2] = rs.getTime(3).toString();
-				record[3] = rs.getString(4);
-				record[4] = rs.getString(5);
-				recordList.add(record);
+			PreparedStatement stmt = prepare(sql);
+			stmt.setObject(1, date);
+			try(ResultSet rs = stmt.executeQuery())	{
+				while(rs.next())	{	
+					record = new String[5];
+					record[0] = Integer.toString(rs.getInt(1));
+					record[1] = rs.getString(2);
+					record[2] = rs.getString(3);
+					record[3] = rs.getString(4);
+					record[4] = rs.getString(5);
+					recordList.add(record);
+				}
 			}
 		}	catch(Exception e)	{ 
 			e.printStackTrace();
+			return new ArrayList<String[]>();
 		}
 		if(recordList.size()==0)	{		//query got no record
 			record = new String[5];
@@ -432,6 +535,7 @@ public class CalendarConnector {
 	 * Read all records for the given ID.
 	 * @param cal
 	 * @return An ArrayList of arrays of strings. Each String[] represents a record in the table.
+	 * The ArrayList is empty if the query fails.
 	 */
 	public ArrayList<String[]> readRecordByID(int id)	{
 		if(!ready)	{
@@ -452,14 +556,15 @@ public class CalendarConnector {
 			while(rs.next())	{
 				record = new String[5];
 				record[0] = Integer.toString(rs.getInt(1));
-				record[1] = rs.getDate(2).toString();
-				record[2] = rs.getTime(3).toString();
+				record[1] = rs.getString(2);
+				record[2] = rs.getString(3);
 				record[3] = rs.getString(4);
 				record[4] = rs.getString(5);
 				recordList.add(record);
 			}
 		}	catch(Exception e)	{ 
 			e.printStackTrace();
+			return new ArrayList<String[]>();
 		}
 		if(recordList.size()==0)	{		//query got no record
 			record = new String[5];
@@ -473,11 +578,103 @@ public class CalendarConnector {
 		return recordList;
 	}
 	
+	/**
+	 * Read all records in the table, with the date and time as <code>LocalDate</code> and <code>LocalTime</code>.
+	 * <p>
+	 * Times outside 00:00:00 to 23:59:59, which a <code>TIME</code> column can hold, are returned as <code>null</code>.
+	 * @return An ArrayList of the records. The ArrayList is empty if no record matches or the query fails.
+	 */
+	public ArrayList<CalendarRecord> readAllCalendarRecords()	{
+		if(!ready)	{
+			System.out.println("Error: uninitiated connection.");
+			return new ArrayList<CalendarRecord>();
+		}
+		String sql = "SELECT * "
+				+ "FROM Calendar.Calendar_Records;";
+		try	{
+			return readCalendarRecords(prepare(sql));
+		}	catch(Exception e)	{ 
+			e.printStackTrace();
+		}
+		return new ArrayList<CalendarRecord>();
+	}
+	
+	/**
+	 * Read all records for the given date, with the date and time as <code>LocalDate</code> and <code>LocalTime</code>.
+	 * <p>
+	 * Times outside 00:00:00 to 23:59:59, which a <code>TIME</code> column can hold, are returned as <code>null</code>.
+	 * @param date The date to search for.
+	 * @return An ArrayList of the records. The ArrayList is empty if no record matches or the query fails.
+	 */
+	public ArrayList<CalendarRecord> readCalendarRecordsByDate(LocalDate date)	{
+		if(!ready)	{
+			System.out.println("Error: uninitiated connection.");
+			return new ArrayList<CalendarRecord>();
+		}
+		String sql = "SELECT * "
+				+ "FROM Calendar.Calendar_Records "
+				+ "WHERE date = ?;";
+		try	{
+			PreparedStatement stmt = prepare(sql);
+			stmt.setObject(1, date);
+			return readCalendarRecords(stmt);
+		}	catch(Exception e)	{ 
+			e.printStackTrace();
+		}
+		return new ArrayList<CalendarRecord>();
+	}
+	
+	/**
+	 * Read the record for the given ID, with the date and time as <code>LocalDate</code> and <code>LocalTime</code>.
+	 * <p>
+	 * Times outside 00:00:00 to 23:59:59, which a <code>TIME</code> column can hold, are returned as <code>null</code>.
+	 * @param id The ID to search for.
+	 * @return An ArrayList of the records. The ArrayList is empty if no record matches or the query fails.
+	 */
+	public ArrayList<CalendarRecord> readCalendarRecordsByID(int id)	{
+		if(!ready)	{
+			System.out.println("Error: uninitiated connection.");
+			return new ArrayList<CalendarRecord>();
+		}
+		String sql = "SELECT * "
+				+ "FROM Calendar.Calendar_Records "
+				+ "WHERE id = ?;";
+		try	{
+			PreparedStatement stmt = prepare(sql);
+			stmt.setInt(1, id);
+			return readCalendarRecords(stmt);
+		}	catch(Exception e)	{ 
+			e.printStackTrace();
+		}
+		return new ArrayList<CalendarRecord>();
+	}
+	
+	/*
+	 * Runs the query and reads every row through getObject(), so dates and times are not parsed from strings.
+	 */
+	private static ArrayList<CalendarRecord> readCalendarRecords(PreparedStatement stmt) throws SQLException	{
+		ArrayList<CalendarRecord> recordList = new ArrayList<>();
+		try(ResultSet rs = stmt.executeQuery())	{
+			while(rs.next())	{
+				LocalTime time;
+				try	{
+					time = rs.getObject(3, LocalTime.class);
+				}	catch(Exception e)	{		//outside the range of LocalTime
+					time = null;
+				}
+				recordList.add(new CalendarRecord(rs.getInt(1), rs.getObject(2, LocalDate.class), time, rs.getString(4), rs.getString(5)));
+			}
+		}
+		return recordList;
+	}
+	
 	/**
 	 * Update the record with the given id.
 	 * <p>
 	 * Does nothing if no record has the given id.
 	 * <p>
+	 * Returns 1 if the operation is successful, and 0 if it is not.
+	 * <p>
 	 * Passing "default" as an argument will leave the respective column unchanged. 
 	 * At least one column must be changed.
 	 * <p>
@@ -487,10 +684,10 @@ public class CalendarConnector {
 	 * @param newEvent the new event to update the record to.
 	 * @param newNote the new note to update the record to.
 	 */
-	public void updateRecordByID(int id, String newDate, String newTime, String newEvent, String newNote)	{
+	public int updateRecordByID(int id, String newDate, String newTime, String newEvent, String newNote)	{
 		if(!ready)	{
 			System.out.println("Error: uninitiated connection.");
-			return;
+			return 0;
 		}
 		try	{	
 			Statement stmt = con.createStatement(ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);		
@@ -518,9 +715,11 @@ public class CalendarConnector {
 			stmt.addBatch(sql);
 			stmt.executeBatch();
 			con.commit();
+			return 1;
 		}	catch(Exception e)	{ 
 			e.printStackTrace();
 		}
+		return 0;
 	}
 	
 	/**
@@ -528,6 +727,8 @@ public class CalendarConnector {
 	 * <p>
 	 * Does nothing if no record has the given date.
 	 * <p>
+	 * Returns 1 if the operation is successful, and 0 if it is not.
+	 * <p>
 	 * Passing "default" as an argument will leave the respective column unchanged. 
 	 * At least one column must be changed.
 	 * <p>
@@ -537,10 +738,10 @@ public class CalendarConnector {
 	 * @param newEvent the new event to update the record to.
 	 * @param newNote the new note to update the record to.
 	 */
-	public void updateRecordByDate(String oldDate, String newDate, String newTime, String newEvent, String newNote)	{
+	public int updateRecordByDate(String oldDate, String newDate, String newTime, String newEvent, String newNote)	{
 		if(!ready)	{
 			System.out.println("Error: uninitiated connection.");
-			return;
+			return 0;
 		}
 		try	{	
 			Statement stmt = con.createStatement(ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);		
@@ -568,21 +769,164 @@ public class CalendarConnector {
 			stmt.addBatch(sql);
 			stmt.executeBatch();
 			con.commit();
+			return 1;
 		}	catch(Exception e)	{ 
 			e.printStackTrace();
 		}
+		return 0;
+	}
+	
+	/**
+	 * Update the record with the given id.
+	 * <p>
+	 * Does nothing if no record has the given id.
+	 * <p>
+	 * Returns 1 if the operation is successful, and 0 if it is not.
+	 * <p>
+	 * Passing <code>null</code> as an argument, or "default" as the event or note, will leave the respective column unchanged. 
+	 * At least one column must be changed.
+	 * <p>
+	 * @param id the ID of the record to update.
+	 * @param newDate the new date to update the record to.
+	 * @param newTime the new time to update the record to.
+	 * @param newEvent the new event to update the record to.
+	 * @param newNote the new note to update the record to.
+	 */
+	public int updateRecordByID(int id, LocalDate newDate, LocalTime newTime, String newEvent, String newNote)	{
+		if(!ready)	{
+			System.out.println("Error: uninitiated connection.");
+			return 0;
+		}
+		return updateRecords("id = ?", id, newDate, newTime, newEvent, newNote);
+	}
+	
+	/**
+	 * Update the record with the given id.
+	 * <p>
+	 * Does nothing if no record has the given id.
+	 * <p>
+	 * Returns 1 if the operation is successful, and 0 if it is not.
+	 * <p>
+	 * Passing <code>null</code> or "default" as the event or note will leave the respective column unchanged. 
+	 * <p>
+	 * @param id the ID of the record to update.
+	 * @param newDateTime the new date and time to update the record to.
+	 * @param newEvent the new event to update the record to.
+	 * @param newNote the new note to update the record to.
+	 */
+	public int updateRecordByID(int id, LocalDateTime newDateTime, String newEvent, String newNote)	{
+		if(newDateTime == null)	{
+			System.out.println("Error: date and time must not be null.");
+			return 0;
+		}
+		return updateRecordByID(id, newDateTime.toLocalDate(), newDateTime.toLocalTime(), newEvent, newNote);
+	}
+	
+	/**
+	 * Update all records with the given original date.
+	 * <p>
+	 * Does nothing if no record has the given date.
+	 * <p>
+	 * Returns 1 if the operation is successful, and 0 if it is not.
+	 * <p>
+	 * Passing <code>null</code> as an argument (except <code>oldDate</code>), or "default" as the event or note, 
+	 * will leave the respective column unchanged. 
+	 * At least one column must be changed.
+	 * <p>
+	 * @param oldDate the original date of the record to update.
+	 * @param newDate the new date to update the record to.
+	 * @param newTime the new time to update the record to.
+	 * @param newEvent the new event to update the record to.
+	 * @param newNote the new note to update the record to.
+	 */
+	public int updateRecordByDate(LocalDate oldDate, LocalDate newDate, LocalTime newTime, String newEvent, String newNote)	{
+		if(!ready)	{
+			System.out.println("Error: uninitiated connection.");
+			return 0;
+		}
+		return updateRecords("date = ?", oldDate, newDate, newTime, newEvent, newNote);
+	}
+	
+	/**
+	 * Update all records with the given original date.
+	 * <p>
+	 * Does nothing if no record has the given date.
+	 * <p>
+	 * Returns 1 if the operation is successful, and 0 if it is not.
+	 * <p>
+	 * Passing <code>null</code> or "default" as the event or note will leave the respective column unchanged. 
+	 * <p>
+	 * @param oldDate the original date of the record to update.
+	 * @param newDateTime the new date and time to update the record to.
+	 * @param newEvent the new event to update the record to.
+	 * @param newNote the new note to update the record to.
+	 */
+	public int updateRecordByDate(LocalDate oldDate, LocalDateTime newDateTime, String newEvent, String newNote)	{
+		if(newDateTime == null)	{
+			System.out.println("Error: date and time must not be null.");
+			return 0;
+		}
+		return updateRecordByDate(oldDate, newDateTime.toLocalDate(), newDateTime.toLocalTime(), newEvent, newNote);
+	}
+	
+	/*
+	 * Shared by the java.time update methods. Binds every value through a typed setter, with the key of the 
+	 * WHERE clause bound last.
+	 */
+	private int updateRecords(String where, Object key, LocalDate newDate, LocalTime newTime, String newEvent, String newNote)	{
+		String sql = "UPDATE Calendar.Calendar_Records "
+				+ "SET "; 
+		if(newDate != null)	{
+			sql += "date = ?, ";
+		}
+		if(newTime != null)	{
+			sql += "time = ?, ";
+		}
+		if(!isDefault(newEvent))	{
+			sql += "event = ?, ";
+		}
+		if(!isDefault(newNote))	{
+			sql += "note = ?, ";
+		}
+		sql = sql.substring(0, sql.length()-2);		//remove trailing comma
+		sql += " WHERE " + where + ";";
+		try	{
+			PreparedStatement stmt = prepare(sql);
+			int index = 1;
+			if(newDate != null)	{
+				stmt.setObject(index++, newDate);
+			}
+			if(newTime != null)	{
+				stmt.setObject(index++, newTime);
+			}
+			if(!isDefault(newEvent))	{
+				stmt.setString(index++, newEvent);
+			}
+			if(!isDefault(newNote))	{
+				stmt.setString(index++, newNote);
+			}
+			stmt.setObject(index, key);
+			stmt.executeUpdate();
+			con.commit();
+			return 1;
+		}	catch(Exception e)	{ 
+			e.printStackTrace();
+		}
+		return 0;
 	}
 	
 	/**
 	 * Remove the record of the given id.
 	 * <p>
 	 * Does nothing if no record has the given id.
+	 * <p>
+	 * Returns 1 if the operation is successful, and 0 if it is not.
 	 * @param id the ID of the record to remove.
 	 */
-	public void removeRecordByID(int id)	{
+	public int removeRecordByID(int id)	{
 		if(!ready)	{
 			System.out.println("Error: uninitiated connection.");
-			return;
+			return 0;
 		}
 		try	{	
 			Statement stmt = con.createStatement(ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);		
@@ -595,21 +939,25 @@ public class CalendarConnector {
 			stmt.addBatch(sql);
 			stmt.executeBatch();
 			con.commit();
+			return 1;
 		}	catch(Exception e)	{ 
 			e.printStackTrace();
 		}
+		return 0;
 	}
 	
 	/**
 	 * Remove records on the given date.
 	 * <p>
 	 * Does nothing if no record has the given date.
+	 * <p>
+	 * Returns 1 if the operation is successful, and 0 if it is not.
 	 * @param id the ID of the record to remove.
 	 */
-	public void removeRecordByDate(String date)	{
+	public int removeRecordByDate(String date)	{
 		if(!ready)	{
 			System.out.println("Error: uninitiated connection.");
-			return;
+			return 0;
 		}
 		try	{	
 			Statement stmt = con.createStatement(ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);		
@@ -622,8 +970,37 @@ public class CalendarConnector {
 			stmt.addBatch(sql);
 			stmt.executeBatch();
 			con.commit();
+			return 1;
+		}	catch(Exception e)	{ 
+			e.printStackTrace();
+		}
+		return 0;
+	}
+	
+	/**
+	 * Remove records on the given date.
+	 * <p>
+	 * Does nothing if no record has the given date.
+	 * <p>
+	 * Returns 1 if the operation is successful, and 0 if it is not.
+	 * @param date the date of the records to remove.
+	 */
+	public int removeRecordByDate(LocalDate date)	{
+		if(!ready)	{
+			System.out.println("Error: uninitiated connection.");
+			return 0;
+		}
+		String sql = "DELETE FROM Calendar.Calendar_Records "
+				+ "WHERE date = ?;";
+		try	{
+			PreparedStatement stmt = prepare(sql);
+			stmt.setObject(1, date);
+			stmt.executeUpdate();
+			con.commit();
+			return 1;
 		}	catch(Exception e)	{ 
 			e.printStackTrace();
 		}
+		return 0;
 	}
 }
@@ -0,0 +1,72 @@
+package com.connector.calendar_db;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * The <code>CalendarRecord</code> class holds one record of the <code>Calendar_Records</code> table,
+ * with the date and time as <code>java.time</code> values.
+ * <p>
+ * It is returned by the <code>readCalendarRecords</code> methods of <code>CalendarConnector</code>.
+ * @author Mingrui Ma
+ *
+ */
+public class CalendarRecord {
+	private final int id;
+	private final LocalDate date;
+	private final LocalTime time;
+	private final String event;
+	private final String note;
+
+	/**
+	 * @param id The ID of the record.
+	 * @param date The date of the record.
+	 * @param time The time of the record, or <code>null</code> if it is outside 00:00:00 to 23:59:59.
+	 * @param event The event of the record.
+	 * @param note The note of the record.
+	 */
+	public CalendarRecord(int id, LocalDate date, LocalTime time, String event, String note)	{
+		this.id = id;
+		this.date = date;
+		this.time = time;
+		this.event = event;
+		this.note = note;
+	}
+
+	/**
+	 * @return The ID of the record.
+	 */
+	public int getID()	{
+		return id;
+	}
+
+	/**
+	 * @return The date of the record.
+	 */
+	public LocalDate getDate()	{
+		return date;
+	}
+
+	/**
+	 * The 'Time' column is a MySQL <code>TIME</code>, which can hold values such as "25:00:00" that
+	 * <code>LocalTime</code> can not.
+	 * @return The time of the record, or <code>null</code> if it is outside 00:00:00 to 23:59:59.
+	 */
+	public LocalTime getTime()	{
+		return time;
+	}
+
+	/**
+	 * @return The event of the record.
+	 */
+	public String getEvent()	{
+		return event;
+	}
+
+	/**
+	 * @return The note of the record.
+	 */
+	public String getNote()	{
+		return note;
+	}
+}
@@ -0,0 +1,140 @@
+package com.connector.calendar_db;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+
+/**
+ * The <code>DateBindingBenchmark</code> class compares the throughput of the string based methods of
+ * <code>CalendarConnector</code> with their <code>java.time</code> overloads.
+ * <p>
+ * <b> Usage</b>
+ * <p>
+ * <code>java com.connector.calendar_db.DateBindingBenchmark &lt;jdbcUrl&gt; &lt;username&gt; &lt;password&gt; [records] [rounds]</code>
+ * <p>
+ * Each round adds <code>records</code> records on distinct dates, reads every date back, then removes them,
+ * once through each of three paths: <ul>
+ *   <li>'string' - the string methods of <code>CalendarConnector</code>, which also run <code>USE Calendar</code> on every call;</li>
+ *   <li>'literal' - the same SQL with the date and time written into the text, but without <code>USE Calendar</code>;</li>
+ *   <li>'java.time' - the <code>java.time</code> methods, which bind the date and time through <code>setObject</code>
+ *   and read them back through <code>getObject</code> with <code>readCalendarRecordsByDate()</code>.</li>
+ *   </ul>
+ * 'string' against 'literal' shows the cost of the extra <code>USE</code> round trip, and 'literal' against 'java.time'
+ * shows the effect of typed binding on its own.
+ * Add <code>useServerPrepStmts=true</code> to the JDBC URL, or Connector/J will write the bound values into the SQL text as well.
+ * <p>
+ * The records are added on the <code>records</code> days from 2100-01-01, and the removals delete every record on those dates,
+ * so the database must not hold real records in that range. The first round is a warmup and is not reported.
+ * <p>
+ * The gain has not been measured yet: it depends on the server and the network, so run this against
+ * the database being tuned and compare the operations per second of the three lines.
+ * @author Mingrui Ma
+ *
+ */
+public class DateBindingBenchmark {
+	private static final LocalDate FIRST_DATE = LocalDate.of(2100, 1, 1);
+
+	public static void main(String[] args)	{
+		if(args.length < 3)	{
+			System.out.println("Usage: DateBindingBenchmark <jdbcUrl> <username> <password> [records] [rounds]");
+			System.exit(2);
+		}
+		int records = args.length > 3 ? Integer.parseInt(args[3]) : 1000,
+			rounds = args.length > 4 ? Integer.parseInt(args[4]) : 5;
+		try(Connection con = DriverManager.getConnection(args[0], args[1], args[2]))	{
+			con.setAutoCommit(false);
+			CalendarConnector calConnector = new CalendarConnector(con);
+
+			for(int round = 0; round <= rounds; round++)	{
+				long stringNanos = runStrings(calConnector, records),
+					literalNanos = runLiterals(con, records),
+					timeNanos = runJavaTime(calConnector, records);
+				if(round == 0)	{
+					continue;		//warmup
+				}
+				System.out.println("Round " + round + ":");
+				report("  string   ", records, stringNanos);
+				report("  literal  ", records, literalNanos);
+				report("  java.time", records, timeNanos);
+				System.out.println(String.format("  USE round trip: %.2fx, typed binding: %.2fx",
+						(double) stringNanos / literalNanos, (double) literalNanos / timeNanos));
+			}
+		}	catch(Exception e)	{
+			e.printStackTrace();
+		}
+	}
+
+	/*
+	 * Adds, reads and removes the records through the string methods. Returns the elapsed time in nanoseconds.
+	 */
+	private static long runStrings(CalendarConnector calConnector, int records)	{
+		long start = System.nanoTime();
+		for(int i = 0; i < records; i++)	{
+			calConnector.addRecord(FIRST_DATE.plusDays(i).toString(), "120000", "benchmark", "default");
+		}
+		for(int i = 0; i < records; i++)	{
+			calConnector.readRecordByDate(FIRST_DATE.plusDays(i).toString());
+		}
+		for(int i = 0; i < records; i++)	{
+			calConnector.removeRecordByDate(FIRST_DATE.plusDays(i).toString());
+		}
+		return System.nanoTime() - start;
+	}
+
+	/*
+	 * Adds, reads and removes the records with the SQL the string methods build, minus USE Calendar.
+	 * Returns the elapsed time in nanoseconds.
+	 */
+	private static long runLiterals(Connection con, int records) throws Exception	{
+		long start = System.nanoTime();
+		try(Statement stmt = con.createStatement(ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY))	{
+			for(int i = 0; i < records; i++)	{
+				stmt.executeUpdate("INSERT INTO Calendar.Calendar_Records (date, time, event) "
+						+ "VALUES ('" + FIRST_DATE.plusDays(i) + "', '120000', 'benchmark');");
+				con.commit();
+			}
+			for(int i = 0; i < records; i++)	{
+				ArrayList<String[]> recordList = new ArrayList<>();
+				try(ResultSet rs = stmt.executeQuery("SELECT * "
+						+ "FROM Calendar.Calendar_Records "
+						+ "WHERE date = '" + FIRST_DATE.plusDays(i) + "';"))	{
+					while(rs.next())	{
+						recordList.add(new String[] {Integer.toString(rs.getInt(1)), rs.getString(2), rs.getString(3), rs.getString(4), rs.getString(5)});
+					}
+				}
+			}
+			for(int i = 0; i < records; i++)	{
+				stmt.executeUpdate("DELETE FROM Calendar.Calendar_Records "
+						+ "WHERE date = '" + FIRST_DATE.plusDays(i) + "';");
+				con.commit();
+			}
+		}
+		return System.nanoTime() - start;
+	}
+
+	/*
+	 * Adds, reads and removes the records through the java.time methods. Returns the elapsed time in nanoseconds.
+	 */
+	private static long runJavaTime(CalendarConnector calConnector, int records)	{
+		long start = System.nanoTime();
+		for(int i = 0; i < records; i++)	{
+			calConnector.addRecord(FIRST_DATE.plusDays(i), LocalTime.NOON, "benchmark", "default");
+		}
+		for(int i = 0; i < records; i++)	{
+			calConnector.readCalendarRecordsByDate(FIRST_DATE.plusDays(i));
+		}
+		for(int i = 0; i < records; i++)	{
+			calConnector.removeRecordByDate(FIRST_DATE.plusDays(i));
+		}
+		return System.nanoTime() - start;
+	}
+
+	private static void report(String name, int records, long nanos)	{
+		double seconds = nanos / 1e9;
+		System.out.println(String.format("%s %10.0f ops/s  (%d ops in %.2fs)", name, 3 * records / seconds, 3 * records, seconds));
+	}
+}
@@ -0,0 +1,94 @@
+package com.connector.calendar_db;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * The <code>LatencyHistogram</code> class records latencies, in microseconds, into log-linear buckets
+ * so that percentiles can be read back without keeping every sample.
+ * <p>
+ * Values below 128 are recorded exactly. Larger values are grouped into 64 buckets per power of two,
+ * which keeps the reported percentiles within about 1.6% of the true value.
+ * <p>
+ * <code>record()</code> is safe to call from many threads at once.
+ * @author Mingrui Ma
+ *
+ */
+class LatencyHistogram {
+	private static final int EXACT_LIMIT = 128;
+	private static final int SUB_BUCKETS = 64;
+	private static final int BUCKET_COUNT = EXACT_LIMIT + (63 - 7) * SUB_BUCKETS;
+
+	private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+
+	/**
+	 * Records a single latency.
+	 * @param micros The latency in microseconds. Negative values are recorded as 0.
+	 */
+	void record(long micros)	{
+		counts.incrementAndGet(indexOf(Math.max(0, micros)));
+	}
+
+	/**
+	 * @return The number of latencies recorded so far.
+	 */
+	long count()	{
+		long total = 0;
+		for(int i = 0; i < BUCKET_COUNT; i++)	{
+			total += counts.get(i);
+		}
+		return total;
+	}
+
+	/**
+	 * Returns the latency at the given percentile. The upper bound of the matching bucket is returned,
+	 * so the result never understates the real latency.
+	 * <p>
+	 * Returns 0 if nothing has been recorded.
+	 * @param percentile The percentile to look up, between 0 and 100, e.g. 99.9.
+	 * @return The latency in microseconds at the given percentile.
+	 */
+	long percentile(double percentile)	{
+		long total = count();
+		if(total == 0)	{
+			return 0;
+		}
+		long target = (long) Math.ceil(total * percentile / 100.0);
+		target = Math.max(1, Math.min(total, target));
+		long seen = 0;
+		for(int i = 0; i < BUCKET_COUNT; i++)	{
+			seen += counts.get(i);
+			if(seen >= target)	{
+				return upperBoundOf(i);
+			}
+		}
+		return upperBoundOf(BUCKET_COUNT - 1);
+	}
+
+	/**
+	 * Adds all counts of the given histogram to this one.
+	 * @param other The histogram to merge in.
+	 */
+	void add(LatencyHistogram other)	{
+		for(int i = 0; i < BUCKET_COUNT; i++)	{
+			counts.addAndGet(i, other.counts.get(i));
+		}
+	}
+
+	static int indexOf(long value)	{
+		if(value < EXACT_LIMIT)	{
+			return (int) value;
+		}
+		int magnitude = 63 - Long.numberOfLeadingZeros(value);		//at least 7
+		int sub = (int) (value >>> (magnitude - 6)) - SUB_BUCKETS;		//between 0 and 63
+		return EXACT_LIMIT + (magnitude - 7) * SUB_BUCKETS + sub;
+	}
+
+	static long upperBoundOf(int index)	{
+		if(index < EXACT_LIMIT)	{
+			return index;
+		}
+		int magnitude = (index - EXACT_LIMIT) / SUB_BUCKETS + 7,
+			sub = (index - EXACT_LIMIT) % SUB_BUCKETS + SUB_BUCKETS;
+		return ((long) (sub + 1) << (magnitude - 6)) - 1;
+	}
+}
@@ -0,0 +1,524 @@
+package com.connector.calendar_db;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * The <code>WorkloadDriver</code> class replays a mixed workload against <code>CalendarConnector</code>
+ * and reports latency over time. It is meant for soak tests and for catching performance regressions.
+ * <p>
+ * <b> Usage</b>
+ * <p>
+ * <code>java com.connector.calendar_db.WorkloadDriver &lt;jdbcUrl&gt; &lt;username&gt; &lt;password&gt; [key=value ...]</code>
+ * <p>
+ * The driver needs a MySQL server, since <code>CalendarConnector</code> creates its table with MySQL specific syntax.
+ * The accepted options are: <ul>
+ *   <li>'clients' - number of concurrent clients, each with its own <code>Connection</code>, default 8;</li>
+ *   <li>'rate' - total arrival rate in operations per second, default 200;</li>
+ *   <li>'duration' - length of the run in seconds, default 60;</li>
+ *   <li>'warmup' - seconds at the start of the run that are left out of the SLO checks and the summary, default 5;</li>
+ *   <li>'window' - length of each reporting window in seconds, default 5;</li>
+ *   <li>'drain' - seconds to wait for queued operations after the run, default 30;</li>
+ *   <li>'mix' - weights of add:read:update:remove operations, default "20:60:15:5";</li>
+ *   <li>'hot' - fraction of operations that target the hot date, default 0.5;</li>
+ *   <li>'days' - other dates are spread uniformly within this many days of the hot date, at most 3650, default 365;</li>
+ *   <li>'seed' - number of records added before the run starts, default 1000;</li>
+ *   <li>'failrate' - largest fraction of failed operations that still passes, default 0.001;</li>
+ *   <li>'p50', 'p99', 'p999' - latency SLOs in milliseconds, 0 to disable, defaults 10, 50 and 200.</li>
+ *   </ul>
+ * <p>
+ * All records are written with the event 'load test' on dates around 2200-01-01, which plays the part of "today".
+ * Updates only target those records, and they are deleted when the run ends. Removals delete every record on
+ * the picked date, so the database must not hold real records within 'days' days of 2200-01-01.
+ * <p>
+ * Arrivals are open-loop: operations are scheduled at the configured rate with exponential gaps,
+ * whether or not earlier operations have finished. Latency is measured from the scheduled start time,
+ * so time spent waiting for a free client is included and a stalled database shows up in the results.
+ * Operations still queued or running when the drain time is up are reported as pending, with their age.
+ * Failed operations are counted separately and left out of the latencies.
+ * <p>
+ * The exit code is 1 if any window after the warmup broke an SLO, if too many operations failed,
+ * if operations were still pending, or if no operation completed after the warmup, and 0 otherwise.
+ * @author Mingrui Ma
+ *
+ */
+public class WorkloadDriver {
+	static final String[] OPERATIONS = {"add", "read", "update", "remove"};
+	static final int ADD = 0, READ = 1, UPDATE = 2, REMOVE = 3;
+	static final String EVENT = "load test";
+	static final LocalDate HOT_DATE = LocalDate.of(2200, 1, 1);
+	/*
+	 * Keeps every date the driver writes, and removes, within ten years of HOT_DATE, far from any real record.
+	 */
+	static final int MAX_DAYS = 3650;
+	private static final long IDLE = Long.MIN_VALUE;
+
+	private final Map<String, String> options;
+	private final int clients, days, seedRecords;
+	private final double rate, hotFraction, maxFailureRate;
+	private final long durationNanos, warmupNanos, windowNanos, drainNanos;
+	private final long sloP50, sloP99, sloP999;
+	private final int[] mix;
+	private final int mixTotal;
+
+	private final BlockingQueue<Long> arrivals = new LinkedBlockingQueue<>();
+	private final AtomicLong outstanding = new AtomicLong();
+	/*
+	 * Workers record into the current window under the read lock, and endWindow() swaps it out under the write lock,
+	 * so a sample always lands in a window that is still to be reported.
+	 */
+	private final ReentrantReadWriteLock windowLock = new ReentrantReadWriteLock();
+	private final AtomicReference<LatencyHistogram> window = new AtomicReference<>(new LatencyHistogram());
+	private final AtomicLong windowFailures = new AtomicLong();
+	private final LatencyHistogram[] totals = new LatencyHistogram[OPERATIONS.length];
+	private final LatencyHistogram pending = new LatencyHistogram();
+	private final AtomicLongArray failures = new AtomicLongArray(OPERATIONS.length);
+	private final AtomicLongArray runningSince;
+	private volatile int[] ids = new int[0];
+	private volatile long start;
+	private volatile boolean scheduling = true, running = true;
+
+	/**
+	 * Reads the workload options. Options that are not given use their default value.
+	 * @param options Map of option names to values, as described in the class documentation.
+	 */
+	public WorkloadDriver(Map<String, String> options)	{
+		this.options = options;
+		clients = Integer.parseInt(option("clients", "8"));
+		rate = Double.parseDouble(option("rate", "200"));
+		durationNanos = TimeUnit.SECONDS.toNanos(Long.parseLong(option("duration", "60")));
+		warmupNanos = TimeUnit.SECONDS.toNanos(Long.parseLong(option("warmup", "5")));
+		windowNanos = TimeUnit.SECONDS.toNanos(Long.parseLong(option("window", "5")));
+		drainNanos = TimeUnit.SECONDS.toNanos(Long.parseLong(option("drain", "30")));
+		hotFraction = Double.parseDouble(option("hot", "0.5"));
+		days = Integer.parseInt(option("days", "365"));
+		seedRecords = Integer.parseInt(option("seed", "1000"));
+		maxFailureRate = Double.parseDouble(option("failrate", "0.001"));
+		sloP50 = Long.parseLong(option("p50", "10")) * 1000;
+		sloP99 = Long.parseLong(option("p99", "50")) * 1000;
+		sloP999 = Long.parseLong(option("p999", "200")) * 1000;
+
+		String[] weights = option("mix", "20:60:15:5").split(":");
+		if(weights.length != OPERATIONS.length)	{
+			throw new IllegalArgumentException("mix must have " + OPERATIONS.length + " weights, got: " + option("mix", ""));
+		}
+		mix = new int[OPERATIONS.length];
+		int total = 0;
+		for(int i = 0; i < weights.length; i++)	{
+			mix[i] = Integer.parseInt(weights[i].trim());
+			total += mix[i];
+		}
+		if(total <= 0)	{
+			throw new IllegalArgumentException("mix must have at least one positive weight.");
+		}
+		mixTotal = total;
+		if(clients < 1)	{
+			throw new IllegalArgumentException("clients must be at least 1, got: " + clients);
+		}
+		if(!(rate > 0) || Double.isInfinite(rate))	{
+			throw new IllegalArgumentException("rate must be a positive number, got: " + option("rate", ""));
+		}
+		if(durationNanos <= 0 || windowNanos <= 0)	{
+			throw new IllegalArgumentException("duration and window must be at least 1 second.");
+		}
+		if(warmupNanos < 0 || drainNanos < 0 || seedRecords < 0)	{
+			throw new IllegalArgumentException("warmup, drain and seed must not be negative.");
+		}
+		if(warmupNanos >= durationNanos)	{
+			throw new IllegalArgumentException("warmup must be shorter than duration.");
+		}
+		if(days < 0 || days > MAX_DAYS)	{
+			throw new IllegalArgumentException("days must be between 0 and " + MAX_DAYS + ", got: " + days);
+		}
+		if(!(hotFraction >= 0 && hotFraction <= 1) || !(maxFailureRate >= 0 && maxFailureRate <= 1))	{
+			throw new IllegalArgumentException("hot and failrate must be between 0 and 1.");
+		}
+		for(int i = 0; i < totals.length; i++)	{
+			totals[i] = new LatencyHistogram();
+		}
+		runningSince = new AtomicLongArray(clients);
+		for(int i = 0; i < clients; i++)	{
+			runningSince.set(i, IDLE);
+		}
+	}
+
+	private String option(String key, String defaultValue)	{
+		String value = options.get(key);
+		return value == null ? defaultValue : value;
+	}
+
+	/**
+	 * Picks the date for the next operation. A fraction of operations given by 'hot' use <code>HOT_DATE</code>,
+	 * the rest are spread uniformly within 'days' days either side of it.
+	 * @return The date as a string, in the format "YYYY-MM-DD".
+	 */
+	String nextDate()	{
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		if(days == 0 || random.nextDouble() < hotFraction)	{
+			return HOT_DATE.toString();
+		}
+		return HOT_DATE.plusDays(random.nextInt(-days, days + 1)).toString();
+	}
+
+	/**
+	 * Picks the operation to run next. Updates turn into adds while the driver knows of no record to update.
+	 * @return The operation to run next, one of <code>ADD</code>, <code>READ</code>, <code>UPDATE</code> or <code>REMOVE</code>.
+	 */
+	int nextOperation()	{
+		int pick = ThreadLocalRandom.current().nextInt(mixTotal);
+		for(int i = 0; i < mix.length; i++)	{
+			pick -= mix[i];
+			if(pick < 0)	{
+				return i == UPDATE && ids.length == 0 ? ADD : i;
+			}
+		}
+		return mix.length - 1;
+	}
+
+	private static String nextTime()	{
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		return String.format("%02d:%02d", random.nextInt(24), random.nextInt(60));
+	}
+
+	/**
+	 * Runs a single operation through the given <code>CalendarConnector</code>.
+	 * <p>
+	 * Updates pick an ID from the last call to <code>refreshIDs()</code>.
+	 * @param calConnector The <code>CalendarConnector</code> to use.
+	 * @param operation The operation to run.
+	 * @return true if the operation succeeded.
+	 */
+	boolean execute(CalendarConnector calConnector, int operation)	{
+		switch(operation)	{
+		case READ:
+			return !calConnector.readRecordByDate(nextDate()).isEmpty();
+		case UPDATE:
+			int[] known = ids;
+			int id = known.length > 0 ? known[ThreadLocalRandom.current().nextInt(known.length)] : 0;		//0 matches no record
+			return calConnector.updateRecordByID(id, "default", nextTime(), "default", "updated by load test") == 1;
+		case ADD:
+			return calConnector.addRecord(nextDate(), nextTime(), EVENT, "default") == 1;
+		case REMOVE:
+			return calConnector.removeRecordByDate(nextDate()) == 1;
+		}
+		return false;
+	}
+
+	/*
+	 * Reloads the IDs of the records written by the driver, so updates hit rows that exist.
+	 */
+	private void refreshIDs(Connection con) throws Exception	{
+		String sql = "SELECT ID FROM Calendar.Calendar_Records "
+				+ "WHERE event = ? AND date BETWEEN ? AND ?;";
+		ArrayList<Integer> found = new ArrayList<>();
+		try(PreparedStatement stmt = con.prepareStatement(sql))	{
+			stmt.setString(1, EVENT);
+			stmt.setObject(2, HOT_DATE.minusDays(days));
+			stmt.setObject(3, HOT_DATE.plusDays(days));
+			ResultSet rs = stmt.executeQuery();
+			while(rs.next())	{
+				found.add(rs.getInt(1));
+			}
+		}
+		con.commit();		//end the transaction, so the next read sees new records
+		int[] refreshed = new int[found.size()];
+		for(int i = 0; i < refreshed.length; i++)	{
+			refreshed[i] = found.get(i);
+		}
+		ids = refreshed;
+	}
+
+	/*
+	 * Deletes every record written by the driver.
+	 */
+	private void cleanUp(Connection con)	{
+		String sql = "DELETE FROM Calendar.Calendar_Records "
+				+ "WHERE event = ? AND date BETWEEN ? AND ?;";
+		try(PreparedStatement stmt = con.prepareStatement(sql))	{
+			stmt.setString(1, EVENT);
+			stmt.setObject(2, HOT_DATE.minusDays(days));
+			stmt.setObject(3, HOT_DATE.plusDays(days));
+			int removed = stmt.executeUpdate();
+			con.commit();
+			System.out.println("Removed " + removed + " load test records.");
+		}	catch(Exception e)	{
+			e.printStackTrace();
+		}
+	}
+
+	/*
+	 * Parks until System.nanoTime() reaches the deadline. parkNanos() may return early, so it is called in a loop.
+	 */
+	private static void sleepUntil(long deadline)	{
+		long remaining;
+		while((remaining = deadline - System.nanoTime()) > 0)	{
+			LockSupport.parkNanos(remaining);
+		}
+	}
+
+	/**
+	 * Opens one connection per client, seeds the table, then runs the workload for the configured duration
+	 * while printing a report line for every window. The records written by the run are deleted at the end.
+	 * @param url The JDBC URL of the database.
+	 * @param username The database user.
+	 * @param password The database password.
+	 * @return true if no window after the warmup broke an SLO, failures stayed within 'failrate',
+	 * and no operation was left pending.
+	 * @throws Exception If a connection cannot be opened.
+	 */
+	public boolean run(String url, String username, String password) throws Exception	{
+		ArrayList<Connection> connections = new ArrayList<>();
+		ArrayList<Thread> workers = new ArrayList<>();
+		Connection control = null;
+		int violations = 0;
+		try	{
+			control = DriverManager.getConnection(url, username, password);
+			control.setAutoCommit(false);
+			for(int i = 0; i < clients; i++)	{
+				Connection con = DriverManager.getConnection(url, username, password);
+				con.setAutoCommit(false);
+				connections.add(con);
+			}
+			CalendarConnector seeder = new CalendarConnector(control);
+			int seedFailures = 0;
+			for(int i = 0; i < seedRecords; i++)	{
+				if(!execute(seeder, ADD))	{
+					seedFailures++;
+				}
+			}
+			refreshIDs(control);
+			System.out.println("Seeded " + (seedRecords - seedFailures) + " records (" + seedFailures + " failed). Running "
+					+ clients + " clients at " + rate + " ops/s for " + TimeUnit.NANOSECONDS.toSeconds(durationNanos) + "s.");
+			System.out.println("  time(s)      ops   failed   p50(ms)   p99(ms)  p99.9(ms)  backlog");
+
+			for(Connection con : connections)	{
+				CalendarConnector calConnector = new CalendarConnector(con);
+				int slot = workers.size();
+				Thread worker = new Thread(() -> work(calConnector, slot), "workload-client-" + slot);
+				worker.setDaemon(true);
+				worker.start();
+				workers.add(worker);
+			}
+			Thread scheduler = new Thread(this::schedule, "workload-scheduler");
+			scheduler.setDaemon(true);
+
+			start = System.nanoTime();
+			scheduler.start();
+			long elapsed = 0;
+			while(elapsed < durationNanos)	{
+				elapsed = Math.min(elapsed + windowNanos, durationNanos);		//the last window may be shorter
+				sleepUntil(start + elapsed);
+				if(endWindow(elapsed))	{
+					violations++;
+				}
+				refreshIDs(control);
+			}
+			scheduling = false;
+			scheduler.join();
+
+			long drainDeadline = System.nanoTime() + drainNanos;
+			while(outstanding.get() > 0 && System.nanoTime() - drainDeadline < 0)	{
+				LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+			}
+			if(endWindow(System.nanoTime() - start))	{
+				violations++;
+			}
+			running = false;
+			for(Thread worker : workers)	{
+				worker.join(TimeUnit.NANOSECONDS.toMillis(windowNanos));
+			}
+			recordPending(System.nanoTime());
+		}	finally	{
+			if(control != null)	{
+				cleanUp(control);
+				control.close();
+			}
+			for(Connection con : connections)	{
+				con.close();
+			}
+		}
+		return summarize(violations);
+	}
+
+	/*
+	 * Queues the scheduled start time of each operation, with exponential gaps that average out to the configured rate.
+	 */
+	private void schedule()	{
+		double meanGapNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+		long next = start;
+		while(scheduling)	{
+			next += (long) (-Math.log(1 - ThreadLocalRandom.current().nextDouble()) * meanGapNanos);
+			sleepUntil(next);
+			outstanding.incrementAndGet();
+			arrivals.add(next);
+		}
+	}
+
+	private void work(CalendarConnector calConnector, int slot)	{
+		try	{
+			while(running)	{
+				Long scheduled = arrivals.poll(100, TimeUnit.MILLISECONDS);
+				if(scheduled == null)	{
+					continue;
+				}
+				if(!running)	{
+					arrivals.add(scheduled);		//left for recordPending()
+					break;
+				}
+				runningSince.set(slot, scheduled);
+				int operation = nextOperation();
+				boolean succeeded = execute(calConnector, operation);
+				long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - scheduled);
+				if(!running)	{
+					break;		//finished after the drain time, recordPending() counts it from runningSince
+				}
+				runningSince.set(slot, IDLE);
+				windowLock.readLock().lock();
+				try	{
+					if(succeeded)	{
+						window.get().record(micros);
+					}	else	{
+						windowFailures.incrementAndGet();
+					}
+				}	finally	{
+					windowLock.readLock().unlock();
+				}
+				if(scheduled - start >= warmupNanos)	{
+					if(succeeded)	{
+						totals[operation].record(micros);
+					}	else	{
+						failures.incrementAndGet(operation);
+					}
+				}
+				outstanding.decrementAndGet();
+			}
+		}	catch(InterruptedException e)	{
+			//the run is over
+		}
+	}
+
+	/*
+	 * Records the age of every operation that is still queued or running after the drain time.
+	 * Called once the workers have stopped, or were given a window's length to stop.
+	 */
+	private void recordPending(long now)	{
+		for(Long scheduled = arrivals.poll(); scheduled != null; scheduled = arrivals.poll())	{
+			pending.record(TimeUnit.NANOSECONDS.toMicros(now - scheduled));
+		}
+		for(int i = 0; i < clients; i++)	{
+			long scheduled = runningSince.get(i);
+			if(scheduled != IDLE)	{
+				pending.record(TimeUnit.NANOSECONDS.toMicros(now - scheduled));
+			}
+		}
+	}
+
+	/*
+	 * Closes the current window and prints its report line. Returns true if the window, after the warmup, broke an SLO.
+	 */
+	private boolean endWindow(long elapsedNanos)	{
+		LatencyHistogram histogram;
+		long failed;
+		windowLock.writeLock().lock();
+		try	{
+			histogram = window.getAndSet(new LatencyHistogram());
+			failed = windowFailures.getAndSet(0);
+		}	finally	{
+			windowLock.writeLock().unlock();
+		}
+		long p50 = histogram.percentile(50),
+			p99 = histogram.percentile(99),
+			p999 = histogram.percentile(99.9);
+		String broken = "";
+		if(sloP50 > 0 && p50 > sloP50)	{
+			broken += " p50";
+		}
+		if(sloP99 > 0 && p99 > sloP99)	{
+			broken += " p99";
+		}
+		if(sloP999 > 0 && p999 > sloP999)	{
+			broken += " p99.9";
+		}
+		String line = String.format("%9d %8d %8d %9.2f %9.2f %10.2f %8d",
+				TimeUnit.NANOSECONDS.toSeconds(elapsedNanos), histogram.count(), failed,
+				p50 / 1000.0, p99 / 1000.0, p999 / 1000.0, arrivals.size());
+		if(!broken.isEmpty())	{
+			line += "  SLO VIOLATION:" + broken + (elapsedNanos > warmupNanos ? "" : " (warmup)");
+		}
+		System.out.println(line);
+		return !broken.isEmpty() && elapsedNanos > warmupNanos;
+	}
+
+	/*
+	 * Prints the summary of the run after the warmup. Returns true if the run passed.
+	 */
+	private boolean summarize(int violations)	{
+		System.out.println();
+		System.out.println("Summary by operation, after warmup:");
+		System.out.println("  operation      ops   failed   p50(ms)   p99(ms)  p99.9(ms)");
+		LatencyHistogram all = new LatencyHistogram();
+		long failed = 0;
+		for(int i = 0; i < OPERATIONS.length; i++)	{
+			all.add(totals[i]);
+			failed += failures.get(i);
+			printSummary(OPERATIONS[i], totals[i], failures.get(i));
+		}
+		all.add(pending);
+		printSummary("pending", pending, 0);
+		printSummary("all", all, failed);
+
+		double failureRate = failed == 0 ? 0 : (double) failed / (failed + all.count());
+		boolean passed = violations == 0 && failureRate <= maxFailureRate && pending.count() == 0 && all.count() > 0;
+		if(all.count() == 0)	{
+			System.out.println("No operation completed after the warmup.");
+		}
+		System.out.println("Windows with SLO violations after warmup: " + violations);
+		System.out.println(String.format("Failure rate: %.4f (limit %.4f)", failureRate, maxFailureRate));
+		System.out.println("Operations still pending after drain: " + pending.count());
+		System.out.println(passed ? "PASSED" : "FAILED");
+		return passed;
+	}
+
+	private static void printSummary(String name, LatencyHistogram histogram, long failed)	{
+		System.out.println(String.format("%11s %8d %8d %9.2f %9.2f %10.2f", name, histogram.count(), failed,
+				histogram.percentile(50) / 1000.0, histogram.percentile(99) / 1000.0, histogram.percentile(99.9) / 1000.0));
+	}
+
+	public static void main(String[] args)	{
+		if(args.length < 3)	{
+			System.out.println("Usage: WorkloadDriver <jdbcUrl> <username> <password> [key=value ...]");
+			System.exit(2);
+		}
+		Map<String, String> options = new HashMap<>();
+		for(int i = 3; i < args.length; i++)	{
+			int split = args[i].indexOf('=');
+			if(split < 1)	{
+				System.out.println("Error: options must be given as key=value, got: " + args[i]);
+				System.exit(2);
+			}
+			options.put(args[i].substring(0, split), args[i].substring(split + 1));
+		}
+		try	{
+			boolean passed = new WorkloadDriver(options).run(args[0], args[1], args[2]);
+			System.exit(passed ? 0 : 1);
+		}	catch(Exception e)	{
+			e.printStackTrace();
+			System.exit(2);
+		}
+	}
+}